@@ -11,4 +11,5 @@ Feature: Performance after load check
     Given init service example
     When load service by 2 concurrent threads for 5 seconds with 'getMethod' request
     Then performance result doesn't have any fails
-    And the average response time is less than 2 seconds
\ No newline at end of file
+    And the average response time is less than 2 seconds
+    And the 99 percentile response time is less than 3000 milliseconds
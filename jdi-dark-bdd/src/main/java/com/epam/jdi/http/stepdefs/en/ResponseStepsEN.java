@@ -62,6 +62,30 @@ public class ResponseStepsEN extends Utils {
                 .isLessThan(seconds * 1000);
     }
 
+    @And("the {double} percentile response time is less than {long} milliseconds")
+    public void percentileResponseTime(double percentile, long milliseconds) {
+        double respTime = performanceResult.get().getPercentile(percentile);
+        Assertions.assertThat(respTime)
+                .describedAs("The %s percentile response time is greater than expected.", percentile)
+                .isLessThan(milliseconds);
+    }
+
+    @And("the response time standard deviation is less than {long} milliseconds")
+    public void responseTimeStandardDeviation(long milliseconds) {
+        double deviation = performanceResult.get().getStandardDeviation();
+        Assertions.assertThat(deviation)
+                .describedAs("The response time standard deviation is greater than expected.")
+                .isLessThan(milliseconds);
+    }
+
+    @And("the throughput is more than {double} requests per second")
+    public void throughput(double requestsPerSecond) {
+        double throughput = performanceResult.get().getThroughput();
+        Assertions.assertThat(throughput)
+                .describedAs("The throughput is less than expected.")
+                .isGreaterThan(requestsPerSecond);
+    }
+
     @And("response header {string} is {string}")
     public void responseHeaderIs(String header, String value) {
         restResponse.get().assertThat().header(header, value);